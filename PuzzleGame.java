@@ -6,13 +6,18 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
 
 /**
  * PuzzleGame --- A high-end, professional sliding puzzle game.
@@ -58,6 +63,7 @@ public class PuzzleGame extends JFrame {
     private final JPanel mainPanel = new JPanel(cardLayout);
     private final MainMenuPanel mainMenuPanel;
     private final PuzzlePanel puzzlePanel;
+    private final MultiBoardPanel multiBoardPanel;
     private final HighScorePanel highScorePanel;
 
     // --- GAME STATE ---
@@ -66,6 +72,7 @@ public class PuzzleGame extends JFrame {
 
     private String currentPlayerName = DEFAULT_PLAYER_NAME;
     private BufferedImage originalImage;
+    private MipmapPyramid previewPyramid;
 
     /**
      * Constructor for PuzzleGame.
@@ -84,11 +91,13 @@ public class PuzzleGame extends JFrame {
         // --- PANEL CREATION ---
         mainMenuPanel = new MainMenuPanel();
         puzzlePanel = new PuzzlePanel();
+        multiBoardPanel = new MultiBoardPanel();
         highScorePanel = new HighScorePanel();
 
         // --- LAYOUT SETUP ---
         mainPanel.add(mainMenuPanel, "MainMenu");
         mainPanel.add(puzzlePanel, "PuzzleGame");
+        mainPanel.add(multiBoardPanel, "MultiBoard");
         mainPanel.add(highScorePanel, "HighScores");
         add(mainPanel);
 
@@ -129,6 +138,16 @@ public class PuzzleGame extends JFrame {
                     throw new IOException("Le fichier sélectionné n'est pas une image valide ou ne peut pas être lu.");
                 }
 
+                // Build the zoomable preview's mipmap pyramid while the player sets up the game.
+                // Construire la pyramide mipmap de l'aperçu zoomable pendant que le joueur configure la partie.
+                // Cancel the previous build so two large pyramids are never computed at once.
+                // Annuler la construction précédente pour ne jamais calculer deux grandes pyramides à la fois.
+                if (previewPyramid != null) {
+                    previewPyramid.cancel();
+                }
+                previewPyramid = new MipmapPyramid(originalImage);
+                previewPyramid.buildInBackground();
+
                 // Ask for player's name.
                 // Demander le nom du joueur.
                 promptForPlayerName();
@@ -148,6 +167,54 @@ public class PuzzleGame extends JFrame {
         }
     }
 
+    /**
+     * Starts a multi-board game: one or more images, several boards played at the same time.
+     * Lance une partie multi-plateaux : une ou plusieurs images, plusieurs plateaux joués en même temps.
+     */
+    private void prepareMultiBoardGame() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Sélectionnez une ou plusieurs images pour les puzzles");
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Images", "jpg", "png"));
+        fileChooser.setMultiSelectionEnabled(true);
+
+        if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            // Some look-and-feels leave the array empty when the file name is typed by hand.
+            // Certains look-and-feels laissent le tableau vide quand le nom du fichier est saisi à la main.
+            File[] selectedFiles = fileChooser.getSelectedFiles();
+            if (selectedFiles.length == 0 && fileChooser.getSelectedFile() != null) {
+                selectedFiles = new File[]{fileChooser.getSelectedFile()};
+            }
+            if (selectedFiles.length == 0) return;
+
+            try {
+                int boardCount = chooseBoardCount();
+
+                // Only decode the images that will actually be used. / Ne décoder que les images réellement utilisées.
+                List<BufferedImage> images = new ArrayList<>();
+                for (int i = 0; i < Math.min(selectedFiles.length, boardCount); i++) {
+                    File selectedFile = selectedFiles[i];
+                    BufferedImage image = ImageIO.read(selectedFile);
+                    if (image == null) {
+                        throw new IOException("Le fichier " + selectedFile.getName() + " n'est pas une image valide ou ne peut pas être lu.");
+                    }
+                    images.add(image);
+                }
+
+                promptForPlayerName();
+                int gridSize = askGridSize();
+
+                multiBoardPanel.startGame(boardCount, gridSize, images);
+                cardLayout.show(mainPanel, "MultiBoard");
+
+            } catch (IOException e) {
+                JOptionPane.showMessageDialog(this,
+                        "Erreur de chargement d'image: " + e.getMessage(),
+                        "Erreur de Fichier",
+                        JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
     /**
      * Prompts the user to enter their name.
      * Demande à l'utilisateur de saisir son nom.
@@ -168,6 +235,16 @@ public class PuzzleGame extends JFrame {
      * Affiche une boîte de dialogue pour que l'utilisateur choisisse la taille de la grille (difficulté).
      */
     private void chooseDifficulty() {
+        startGame(askGridSize());
+    }
+
+    /**
+     * Asks for the grid size (difficulty) and returns it.
+     * Demande la taille de la grille (difficulté) et la renvoie.
+     *
+     * @return The dimension of the puzzle grid. / La dimension de la grille du puzzle.
+     */
+    private int askGridSize() {
         Object[] options = {"Facile (3x3)", "Moyen (4x4)", "Difficile (5x5)"};
         int choice = JOptionPane.showOptionDialog(this,
                 "Choisissez la difficulté",
@@ -182,8 +259,27 @@ public class PuzzleGame extends JFrame {
         } else if (choice == 2) {
             gridSize = 5; // Hard / Difficile
         }
+        return gridSize;
+    }
 
-        startGame(gridSize);
+    /**
+     * Asks how many boards to play at once in multi-board mode.
+     * Demande combien de plateaux jouer simultanément en mode multi-plateaux.
+     *
+     * @return The number of boards. / Le nombre de plateaux.
+     */
+    private int chooseBoardCount() {
+        Object[] options = {"2 plateaux", "4 plateaux", "6 plateaux"};
+        int choice = JOptionPane.showOptionDialog(this,
+                "Combien de puzzles simultanés ?",
+                "Multi-Plateaux",
+                JOptionPane.DEFAULT_OPTION,
+                JOptionPane.QUESTION_MESSAGE,
+                null, options, options[1]);
+
+        if (choice == 0) return 2;
+        if (choice == 2) return 6;
+        return 4;
     }
 
     /**
@@ -194,7 +290,7 @@ public class PuzzleGame extends JFrame {
      * La dimension de la grille du puzzle (ex: 3 pour une grille 3x3).
      */
     private void startGame(int gridSize) {
-        puzzlePanel.startGame(gridSize, originalImage);
+        puzzlePanel.startGame(gridSize, originalImage, previewPyramid);
         cardLayout.show(mainPanel, "PuzzleGame");
     }
 
@@ -248,6 +344,7 @@ public class PuzzleGame extends JFrame {
         private Color gradientEndColor = COLOR_ACCENT;
         
         private JButton newGameButton;
+        private JButton multiBoardButton;
         private JButton highScoresButton;
         private JButton quitButton;
 
@@ -270,6 +367,8 @@ public class PuzzleGame extends JFrame {
                 greetingLabel.setForeground(titleColor);
                 newGameButton.setBackground(buttonBgColor);
                 newGameButton.setForeground(buttonFgColor);
+                multiBoardButton.setBackground(buttonBgColor);
+                multiBoardButton.setForeground(buttonFgColor);
                 highScoresButton.setBackground(buttonBgColor);
                 highScoresButton.setForeground(buttonFgColor);
                 quitButton.setBackground(buttonBgColor);
@@ -290,11 +389,14 @@ public class PuzzleGame extends JFrame {
             add(greetingLabel, gbc);
 
             gbc.gridy++;
-            JPanel buttonPanel = new JPanel(new GridLayout(1, 3, 20, 20));
+            JPanel buttonPanel = new JPanel(new GridLayout(1, 4, 20, 20));
             buttonPanel.setOpaque(false);
 
             newGameButton = createMenuButton("▶ Nouvelle Partie", e -> prepareGame());
             buttonPanel.add(newGameButton);
+
+            multiBoardButton = createMenuButton("🧩 Multi-Plateaux", e -> prepareMultiBoardGame());
+            buttonPanel.add(multiBoardButton);
             
             highScoresButton = createMenuButton("🏆 Meilleurs Scores", e -> {
                 highScorePanel.loadHighScores();
@@ -348,6 +450,7 @@ public class PuzzleGame extends JFrame {
         private JButton[][] buttons;
         private int emptyRow, emptyCol, gridSize;
         private BufferedImage originalImage;
+        private MipmapPyramid previewPyramid;
         private Timer gameTimer;
         private int timeElapsed = 0;
         private int moveCount = 0;
@@ -395,9 +498,10 @@ public class PuzzleGame extends JFrame {
             g2d.fillRect(0, 0, getWidth(), getHeight());
         }
 
-        public void startGame(int gridSize, BufferedImage image) {
+        public void startGame(int gridSize, BufferedImage image, MipmapPyramid pyramid) {
             this.gridSize = gridSize;
             this.originalImage = image;
+            this.previewPyramid = pyramid;
             this.removeAll(); 
 
             setupSidePanel();
@@ -414,15 +518,36 @@ public class PuzzleGame extends JFrame {
             sidePanel.setOpaque(false);
             sidePanel.setPreferredSize(new Dimension(250, 0));
             
-            JLabel imagePreviewLabel = new JLabel();
+            // Fixed size with a placeholder, so the preview can be clicked before the thumbnail is ready.
+            // Taille fixe avec un texte d'attente, pour que l'aperçu soit cliquable avant que la miniature soit prête.
+            JLabel imagePreviewLabel = new JLabel("Chargement...", SwingConstants.CENTER);
+            imagePreviewLabel.setForeground(COLOR_FOREGROUND);
             imagePreviewLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            imagePreviewLabel.setIcon(new ImageIcon(originalImage.getScaledInstance(220, 220, Image.SCALE_SMOOTH)));
-            imagePreviewLabel.setToolTipText("Cliquez pour agrandir");
+            Dimension thumbnailSize = new Dimension(220, 220);
+            imagePreviewLabel.setPreferredSize(thumbnailSize);
+            imagePreviewLabel.setMinimumSize(thumbnailSize);
+            imagePreviewLabel.setMaximumSize(thumbnailSize);
+            // Scale the thumbnail from a small pyramid level rather than the full-resolution image.
+            // Réduire la miniature depuis un petit niveau de la pyramide plutôt que depuis l'image pleine résolution.
+            previewPyramid.whenReady(() -> {
+                imagePreviewLabel.setText(null);
+                imagePreviewLabel.setIcon(new ImageIcon(
+                        previewPyramid.getLevel(previewPyramid.levelAtLeast(220)).getScaledInstance(220, 220, Image.SCALE_SMOOTH)));
+            });
+            imagePreviewLabel.setToolTipText("Cliquez pour agrandir (molette : zoom, glisser : déplacer)");
             imagePreviewLabel.addMouseListener(new MouseAdapter() {
                 public void mouseClicked(MouseEvent e) {
+                    // The window is bounded by the screen, not by the image: huge photos are zoomed and panned instead.
+                    // La fenêtre est limitée par l'écran, pas par l'image : les grandes photos sont zoomées et déplacées.
                     JDialog previewDialog = new JDialog(PuzzleGame.this, "Aperçu de l'image", true);
-                    previewDialog.add(new JLabel(new ImageIcon(originalImage)));
-                    previewDialog.pack();
+                    // Dispose rather than hide, so the preview unregisters from the pyramid and frees its peer.
+                    // Libérer plutôt que masquer, pour que l'aperçu se désinscrive de la pyramide et libère sa ressource native.
+                    previewDialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+                    previewDialog.add(new ZoomPreviewPanel(previewPyramid));
+                    Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+                    previewDialog.setSize(
+                            Math.max(400, Math.min(originalImage.getWidth(), screen.width * 4 / 5)),
+                            Math.max(300, Math.min(originalImage.getHeight(), screen.height * 4 / 5)));
                     previewDialog.setLocationRelativeTo(PuzzleGame.this);
                     previewDialog.setVisible(true);
                 }
@@ -564,6 +689,747 @@ public class PuzzleGame extends JFrame {
         }
     }
 
+    /**
+     * MultiBoardPanel --- Game screen for several puzzles played at the same time.
+     * All boards draw from one shared TileAtlas and are driven by a single render loop
+     * (slide animations, background and clock), so adding a board adds neither images nor timers.
+     * <p>
+     * MultiBoardPanel --- Écran de jeu pour plusieurs puzzles joués en même temps.
+     * Tous les plateaux dessinent depuis un TileAtlas partagé et sont animés par une seule boucle de rendu
+     * (glissements, arrière-plan et chrono), donc ajouter un plateau n'ajoute ni images ni timers.
+     */
+    private class MultiBoardPanel extends JPanel {
+        private static final int RENDER_INTERVAL_MS = 25;
+        private static final int BACKGROUND_INTERVAL_MS = 50;
+        private static final int SLIDE_DURATION_MS = 120;
+        private static final int BOARD_GAP = 12;
+        private static final int TILE_GAP = 2;
+
+        private final List<Board> boards = new ArrayList<>();
+        private final Random random = new Random();
+        private final Timer renderLoop;
+        private final BoardsView boardsView = new BoardsView();
+        private final JLabel timeLabel = createSideLabel("Temps: 0s");
+        private final JLabel moveCountLabel = createSideLabel("Mouvements: 0");
+        private final JLabel solvedLabel = createSideLabel("Résolus: 0/0");
+        private TileAtlas atlas;
+        private long startNanos;
+        private int timeElapsed = 0;
+        private int moveCount = 0;
+        private int tickCount = 0;
+
+        private float backgroundHue = 0.6f;
+        private Color gameGradientStart = new Color(25, 25, 80);
+        private Color gameGradientEnd = new Color(50, 25, 120);
+
+        public MultiBoardPanel() {
+            setLayout(new BorderLayout(15, 15));
+            setBorder(new EmptyBorder(15, 15, 15, 15));
+            add(boardsView, BorderLayout.CENTER);
+            add(createSidePanel(), BorderLayout.EAST);
+
+            renderLoop = new Timer(RENDER_INTERVAL_MS, e -> tick());
+        }
+
+        public void startGame(int boardCount, int gridSize, List<BufferedImage> images) {
+            if (images.isEmpty()) return;
+
+            // Only the images actually used get a place in the atlas. / Seules les images utilisées ont une place dans l'atlas.
+            List<BufferedImage> used = images.subList(0, Math.min(images.size(), boardCount));
+
+            boards.clear();
+            for (int i = 0; i < boardCount; i++) {
+                boards.add(new Board(gridSize, i % used.size(), random));
+            }
+
+            // Atlas cells match the largest a board can get on this screen, so tiles are never upscaled.
+            // Les cases de l'atlas correspondent à la plus grande taille possible d'un plateau sur cet écran.
+            Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+            int largestBoard = Math.min(screen.width / boardColumns(), screen.height / boardRows()) - 2 * BOARD_GAP;
+            atlas = new TileAtlas(used, Math.max(TileAtlas.MIN_CELL_SIZE, Math.min(TileAtlas.MAX_CELL_SIZE, largestBoard)));
+
+            moveCount = 0;
+            timeElapsed = 0;
+            startNanos = System.nanoTime();
+            updateInfo();
+            boardsView.invalidateBoards();
+            renderLoop.start();
+        }
+
+        private int boardColumns() {
+            return (int) Math.ceil(Math.sqrt(boards.size()));
+        }
+
+        private int boardRows() {
+            return (boards.size() + boardColumns() - 1) / boardColumns();
+        }
+
+        private JPanel createSidePanel() {
+            JPanel sidePanel = new JPanel();
+            sidePanel.setLayout(new BoxLayout(sidePanel, BoxLayout.Y_AXIS));
+            sidePanel.setOpaque(false);
+            sidePanel.setPreferredSize(new Dimension(250, 0));
+
+            sidePanel.add(timeLabel);
+            sidePanel.add(moveCountLabel);
+            sidePanel.add(solvedLabel);
+            sidePanel.add(Box.createVerticalGlue());
+
+            JButton quitButton = new JButton("Retour au Menu");
+            quitButton.addActionListener(e -> {
+                renderLoop.stop();
+                showMainMenu();
+            });
+            quitButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+            sidePanel.add(quitButton);
+            return sidePanel;
+        }
+
+        /**
+         * One step of the shared render loop: advances the sliding boards, the background and the clock.
+         * Only boards that are sliding are redrawn; the background changes at the single-board panel's rate.
+         * <p>
+         * Une étape de la boucle de rendu partagée : fait avancer les plateaux en glissement, le fond et le chrono.
+         * Seuls les plateaux en glissement sont redessinés ; le fond change au rythme du panneau de jeu simple.
+         */
+        private void tick() {
+            float step = (float) RENDER_INTERVAL_MS / SLIDE_DURATION_MS;
+            for (int i = 0; i < boards.size(); i++) {
+                Board board = boards.get(i);
+                if (board.slideProgress < 1f) {
+                    board.advance(step);
+                    boardsView.repaintBoard(i);
+                }
+            }
+
+            if (++tickCount % (BACKGROUND_INTERVAL_MS / RENDER_INTERVAL_MS) == 0) {
+                backgroundHue += 0.0005f;
+                if (backgroundHue > 1.0f) {
+                    backgroundHue = 0.0f;
+                }
+                gameGradientStart = Color.getHSBColor(backgroundHue, 0.7f, 0.4f);
+                gameGradientEnd = Color.getHSBColor(backgroundHue + 0.05f, 0.7f, 0.5f);
+                Color textColor = Color.getHSBColor(backgroundHue + 0.5f, 0.2f, 1.0f);
+                timeLabel.setForeground(textColor);
+                moveCountLabel.setForeground(textColor);
+                solvedLabel.setForeground(textColor);
+                repaint();
+            }
+
+            int seconds = (int) ((System.nanoTime() - startNanos) / 1_000_000_000L);
+            if (seconds != timeElapsed) {
+                timeElapsed = seconds;
+                updateInfo();
+            }
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2d = (Graphics2D) g;
+            GradientPaint gp = new GradientPaint(0, 0, gameGradientStart, getWidth(), getHeight(), gameGradientEnd);
+            g2d.setPaint(gp);
+            g2d.fillRect(0, 0, getWidth(), getHeight());
+        }
+
+        private void updateInfo() {
+            int solved = 0;
+            for (Board board : boards) {
+                if (board.solved) solved++;
+            }
+            timeLabel.setText(String.format("Temps: %ds", timeElapsed));
+            moveCountLabel.setText(String.format("Mouvements: %d", moveCount));
+            solvedLabel.setText(String.format("Résolus: %d/%d", solved, boards.size()));
+        }
+
+        private JLabel createSideLabel(String text) {
+            JLabel label = new JLabel(text);
+            label.setFont(FONT_LABEL);
+            label.setForeground(COLOR_FOREGROUND);
+            label.setAlignmentX(Component.CENTER_ALIGNMENT);
+            label.setBorder(new EmptyBorder(10, 0, 10, 0));
+            return label;
+        }
+
+        private void checkWinCondition() {
+            for (Board board : boards) {
+                if (!board.solved) return;
+            }
+
+            renderLoop.stop();
+            for (Board board : boards) {
+                board.advance(1f);
+            }
+            boardsView.invalidateBoards();
+            boardsView.paintImmediately(0, 0, boardsView.getWidth(), boardsView.getHeight());
+
+            // Per-board score on the single-board scale, so both modes share the top-10 table fairly.
+            // Score par plateau sur la même échelle qu'une partie simple, pour partager équitablement le top 10.
+            int finalScore = Math.max(0, 10000 - (timeElapsed * 10 + moveCount * 5) / boards.size());
+            saveHighScore(currentPlayerName, finalScore);
+            JOptionPane.showMessageDialog(this, "Félicitations! Votre score: " + finalScore, "Puzzles Résolus!", JOptionPane.INFORMATION_MESSAGE);
+            showMainMenu();
+        }
+
+        /**
+         * BoardsView --- Paints every board from the atlas and routes clicks to the right board.
+         * Boards are kept in a cached layer and only stale ones are redrawn, so a background
+         * repaint costs one gradient fill and one image copy whatever the number of boards.
+         * <p>
+         * BoardsView --- Dessine chaque plateau depuis l'atlas et transmet les clics au bon plateau.
+         * Les plateaux sont conservés dans un calque en cache et seuls ceux périmés sont redessinés,
+         * donc repeindre le fond coûte un dégradé et une copie d'image quel que soit le nombre de plateaux.
+         */
+        private class BoardsView extends JComponent {
+            private BufferedImage boardLayer;
+            private boolean[] staleBoards = new boolean[0];
+
+            BoardsView() {
+                setOpaque(true);
+                addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mousePressed(MouseEvent e) {
+                        for (int i = 0; i < boards.size(); i++) {
+                            Rectangle bounds = boardBounds(i);
+                            Board board = boards.get(i);
+                            if (!board.solved && bounds.contains(e.getPoint())) {
+                                int c = (e.getX() - bounds.x) * board.gridSize / bounds.width;
+                                int r = (e.getY() - bounds.y) * board.gridSize / bounds.height;
+                                if (board.slide(r * board.gridSize + c)) {
+                                    repaintBoard(i);
+                                    moveCount++;
+                                    updateInfo();
+                                    checkWinCondition();
+                                }
+                                return;
+                            }
+                        }
+                    }
+                });
+            }
+
+            void invalidateBoards() {
+                // The layout changes with the board count, so drop the whole layer rather than only the new boards' areas.
+                // La disposition change avec le nombre de plateaux, donc abandonner tout le calque et pas seulement les zones des nouveaux plateaux.
+                boardLayer = null;
+                staleBoards = new boolean[boards.size()];
+                Arrays.fill(staleBoards, true);
+                repaint();
+            }
+
+            void repaintBoard(int index) {
+                staleBoards[index] = true;
+                repaint(boardArea(index));
+            }
+
+            // Board bounds plus the solved border drawn around them. / Limites du plateau plus la bordure de réussite.
+            private Rectangle boardArea(int index) {
+                Rectangle area = boardBounds(index);
+                area.grow(3, 3);
+                return area;
+            }
+
+            private Rectangle boardBounds(int index) {
+                int columns = boardColumns();
+                int rows = boardRows();
+                int cellWidth = getWidth() / columns;
+                int cellHeight = getHeight() / rows;
+                int size = Math.max(0, Math.min(cellWidth, cellHeight) - 2 * BOARD_GAP);
+                int x = (index % columns) * cellWidth + (cellWidth - size) / 2;
+                int y = (index / columns) * cellHeight + (cellHeight - size) / 2;
+                return new Rectangle(x, y, size, size);
+            }
+
+            private Rectangle cellBounds(Rectangle board, int gridSize, int cell) {
+                int r = cell / gridSize;
+                int c = cell % gridSize;
+                int x0 = board.x + c * board.width / gridSize + TILE_GAP / 2;
+                int y0 = board.y + r * board.height / gridSize + TILE_GAP / 2;
+                int x1 = board.x + (c + 1) * board.width / gridSize - TILE_GAP / 2;
+                int y1 = board.y + (r + 1) * board.height / gridSize - TILE_GAP / 2;
+                return new Rectangle(x0, y0, x1 - x0, y1 - y0);
+            }
+
+            @Override
+            protected void paintComponent(Graphics g) {
+                int width = Math.max(1, getWidth());
+                int height = Math.max(1, getHeight());
+                if (boardLayer == null || boardLayer.getWidth() != width || boardLayer.getHeight() != height) {
+                    boardLayer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                    Arrays.fill(staleBoards, true);
+                }
+                if (atlas != null) {
+                    renderStaleBoards();
+                }
+
+                // Backdrop in panel coordinates so it lines up with the gradient around this view.
+                // Fond en coordonnées du panneau pour qu'il se raccorde au dégradé autour de cette vue.
+                Graphics2D g2d = (Graphics2D) g;
+                g2d.setPaint(new GradientPaint(-getX(), -getY(), gameGradientStart,
+                        MultiBoardPanel.this.getWidth() - getX(), MultiBoardPanel.this.getHeight() - getY(), gameGradientEnd));
+                g2d.fillRect(0, 0, getWidth(), getHeight());
+                g2d.drawImage(boardLayer, 0, 0, null);
+            }
+
+            private void renderStaleBoards() {
+                Graphics2D layer = boardLayer.createGraphics();
+                layer.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                for (int i = 0; i < staleBoards.length; i++) {
+                    if (!staleBoards[i]) continue;
+                    layer.setComposite(AlphaComposite.Clear);
+                    layer.fill(boardArea(i));
+                    layer.setComposite(AlphaComposite.SrcOver);
+                    paintBoard(layer, i);
+                    staleBoards[i] = false;
+                }
+                layer.dispose();
+            }
+
+            private void paintBoard(Graphics2D g2d, int index) {
+                Rectangle bounds = boardBounds(index);
+                Board board = boards.get(index);
+                int blank = board.gridSize * board.gridSize - 1;
+
+                for (int cell = 0; cell < board.cells.length; cell++) {
+                    int tileId = board.cells[cell];
+                    if (tileId == blank && !board.solved) continue;
+
+                    Rectangle dest = cellBounds(bounds, board.gridSize, cell);
+                    if (cell == board.movingCell && board.slideProgress < 1f) {
+                        // Ease-out slide from the previous cell. / Glissement amorti depuis la case précédente.
+                        Rectangle from = cellBounds(bounds, board.gridSize, board.movingFrom);
+                        float t = 1f - (1f - board.slideProgress) * (1f - board.slideProgress);
+                        dest.x = Math.round(from.x + (dest.x - from.x) * t);
+                        dest.y = Math.round(from.y + (dest.y - from.y) * t);
+                    }
+                    atlas.drawTile(g2d, board.imageIndex, board.gridSize, tileId, dest);
+                }
+
+                if (board.solved) {
+                    g2d.setColor(new Color(120, 220, 140));
+                    g2d.drawRect(bounds.x - 2, bounds.y - 2, bounds.width + 3, bounds.height + 3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Board --- State of one sliding puzzle in multi-board mode; holds tile ids only, never images.
+     * Board --- État d'un taquin en mode multi-plateaux ; ne contient que des identifiants de tuiles, jamais d'images.
+     */
+    private static class Board {
+        final int gridSize;
+        final int imageIndex;
+        // Tile id shown in each cell; gridSize*gridSize-1 is the empty cell.
+        // Identifiant de tuile affiché dans chaque case ; gridSize*gridSize-1 est la case vide.
+        final int[] cells;
+        int emptyIndex;
+        int movingCell = -1;
+        int movingFrom;
+        float slideProgress = 1f;
+        boolean solved;
+
+        Board(int gridSize, int imageIndex, Random random) {
+            this.gridSize = gridSize;
+            this.imageIndex = imageIndex;
+            this.cells = new int[gridSize * gridSize];
+            for (int i = 0; i < cells.length; i++) cells[i] = i;
+            emptyIndex = cells.length - 1;
+
+            // Shuffle with random legal moves so the board is always solvable.
+            // Mélanger par des coups légaux aléatoires pour que le plateau soit toujours soluble.
+            int previous = -1;
+            for (int moves = 0; moves < cells.length * 20 || isSolved(); moves++) {
+                int[] neighbours = neighboursOf(emptyIndex);
+                int next = neighbours[random.nextInt(neighbours.length)];
+                if (next == previous) next = neighbours[random.nextInt(neighbours.length)];
+                previous = emptyIndex;
+                swapWithEmpty(next);
+            }
+            movingCell = -1;
+        }
+
+        private int[] neighboursOf(int cell) {
+            int r = cell / gridSize;
+            int c = cell % gridSize;
+            List<Integer> result = new ArrayList<>();
+            if (r > 0) result.add(cell - gridSize);
+            if (r < gridSize - 1) result.add(cell + gridSize);
+            if (c > 0) result.add(cell - 1);
+            if (c < gridSize - 1) result.add(cell + 1);
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private void swapWithEmpty(int cell) {
+            cells[emptyIndex] = cells[cell];
+            cells[cell] = cells.length - 1;
+            movingFrom = cell;
+            movingCell = emptyIndex;
+            emptyIndex = cell;
+        }
+
+        /**
+         * Moves the tile in the given cell into the empty cell if they are adjacent.
+         * Déplace la tuile de la case donnée vers la case vide si elles sont adjacentes.
+         *
+         * @return true if the tile moved. / true si la tuile a bougé.
+         */
+        boolean slide(int cell) {
+            int r = cell / gridSize, c = cell % gridSize;
+            int er = emptyIndex / gridSize, ec = emptyIndex % gridSize;
+            if (!((Math.abs(r - er) == 1 && c == ec) || (Math.abs(c - ec) == 1 && r == er))) return false;
+
+            swapWithEmpty(cell);
+            slideProgress = 0f;
+            solved = isSolved();
+            return true;
+        }
+
+        void advance(float step) {
+            if (slideProgress < 1f) slideProgress = Math.min(1f, slideProgress + step);
+        }
+
+        private boolean isSolved() {
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] != i) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * TileAtlas --- One decoded image holding a square, reduced copy of every puzzle image in multi-board mode.
+     * Each image is center-cropped to a square so it keeps its proportions on the square boards.
+     * Boards sharing an image share its cell; tiles are drawn as sub-rectangles, never copied.
+     * <p>
+     * TileAtlas --- Une seule image décodée contenant une copie carrée et réduite de chaque image du mode multi-plateaux.
+     * Chaque image est recadrée au centre en carré pour garder ses proportions sur les plateaux carrés.
+     * Les plateaux d'une même image partagent sa case ; les tuiles sont dessinées comme sous-rectangles, jamais copiées.
+     */
+    private static class TileAtlas {
+        static final int MIN_CELL_SIZE = 128;
+        static final int MAX_CELL_SIZE = 1024;
+        private static final int MAX_COLUMNS = 4;
+
+        private final BufferedImage atlas;
+        private final int columns;
+        private final int cellSize;
+
+        TileAtlas(List<BufferedImage> images, int cellSize) {
+            this.cellSize = cellSize;
+            columns = Math.min(images.size(), MAX_COLUMNS);
+            int rows = (images.size() + columns - 1) / columns;
+            atlas = new BufferedImage(columns * cellSize, rows * cellSize, BufferedImage.TYPE_INT_RGB);
+
+            Graphics2D g2d = atlas.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            for (int i = 0; i < images.size(); i++) {
+                BufferedImage image = images.get(i);
+                int side = Math.min(image.getWidth(), image.getHeight());
+                image = image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+
+                // Halve while the image is at least twice the cell, so the final bilinear pass
+                // shrinks by less than 2x and every source pixel still contributes.
+                // Réduire de moitié tant que l'image fait au moins deux fois la case, pour que le passage
+                // bilinéaire final réduise de moins de 2x et que chaque pixel source compte encore.
+                while (image.getWidth() >= 2 * cellSize || image.getHeight() >= 2 * cellSize) {
+                    image = MipmapPyramid.halve(image);
+                }
+                int x = (i % columns) * cellSize;
+                int y = (i / columns) * cellSize;
+                g2d.drawImage(image, x, y, cellSize, cellSize, null);
+            }
+            g2d.dispose();
+        }
+
+        void drawTile(Graphics2D g2d, int imageIndex, int gridSize, int tileId, Rectangle dest) {
+            int originX = (imageIndex % columns) * cellSize;
+            int originY = (imageIndex / columns) * cellSize;
+            int r = tileId / gridSize;
+            int c = tileId % gridSize;
+            g2d.drawImage(atlas,
+                    dest.x, dest.y, dest.x + dest.width, dest.y + dest.height,
+                    originX + c * cellSize / gridSize, originY + r * cellSize / gridSize,
+                    originX + (c + 1) * cellSize / gridSize, originY + (r + 1) * cellSize / gridSize,
+                    null);
+        }
+    }
+
+    /**
+     * MipmapPyramid --- Successively halved copies of an image, built once in the background.
+     * Level 0 is the source image itself; each following level is half the size of the previous one.
+     * <p>
+     * MipmapPyramid --- Copies successivement réduites de moitié d'une image, construites une seule fois en arrière-plan.
+     * Le niveau 0 est l'image source elle-même ; chaque niveau suivant fait la moitié de la taille du précédent.
+     */
+    private static class MipmapPyramid {
+        private static final int MIN_LEVEL_SIZE = 64;
+
+        // Only touched on the Event Dispatch Thread. / Uniquement manipulés sur l'Event Dispatch Thread.
+        private BufferedImage[] levels;
+        private boolean ready;
+        private final List<Runnable> readyListeners = new ArrayList<>();
+        private SwingWorker<BufferedImage[], Void> worker;
+
+        public MipmapPyramid(BufferedImage source) {
+            levels = new BufferedImage[]{source};
+        }
+
+        /**
+         * Computes the reduced levels on a worker thread; until then only level 0 is available.
+         * Calcule les niveaux réduits sur un thread de travail ; en attendant seul le niveau 0 est disponible.
+         */
+        public void buildInBackground() {
+            BufferedImage source = levels[0];
+            worker = new SwingWorker<BufferedImage[], Void>() {
+                @Override
+                protected BufferedImage[] doInBackground() {
+                    List<BufferedImage> built = new ArrayList<>();
+                    BufferedImage current = source;
+                    built.add(current);
+                    while (!isCancelled() && Math.max(current.getWidth(), current.getHeight()) > MIN_LEVEL_SIZE) {
+                        current = halve(current);
+                        built.add(current);
+                    }
+                    return built.toArray(new BufferedImage[0]);
+                }
+
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        readyListeners.clear();
+                        return;
+                    }
+                    try {
+                        levels = get();
+                    } catch (InterruptedException | ExecutionException e) {
+                        System.err.println("Error building preview pyramid: " + e.getMessage());
+                    }
+                    ready = true;
+                    readyListeners.forEach(Runnable::run);
+                    readyListeners.clear();
+                }
+            };
+            worker.execute();
+        }
+
+        /**
+         * Stops an unfinished build, e.g. when another image replaces this one; pending listeners are dropped.
+         * Arrête une construction inachevée, p. ex. quand une autre image remplace celle-ci ; les écouteurs en attente sont abandonnés.
+         */
+        public void cancel() {
+            if (worker != null && !worker.isDone()) {
+                worker.cancel(true);
+            }
+        }
+
+        public void whenReady(Runnable listener) {
+            if (ready) {
+                listener.run();
+            } else {
+                readyListeners.add(listener);
+            }
+        }
+
+        public void removeReadyListener(Runnable listener) {
+            readyListeners.remove(listener);
+        }
+
+        public BufferedImage getLevel(int level) {
+            return levels[level];
+        }
+
+        /**
+         * Picks the smallest level whose width and height are both at least the given size.
+         * Choisit le plus petit niveau dont la largeur et la hauteur font au moins la taille donnée.
+         *
+         * @param size Minimum size in pixels. / Taille minimale en pixels.
+         * @return The index of the level. / L'indice du niveau.
+         */
+        public int levelAtLeast(int size) {
+            int level = 0;
+            while (level + 1 < levels.length
+                    && levels[level + 1].getWidth() >= size && levels[level + 1].getHeight() >= size) {
+                level++;
+            }
+            return level;
+        }
+
+        /**
+         * Picks the smallest level that still has at least as many pixels as the screen will show.
+         * Choisit le plus petit niveau qui a encore au moins autant de pixels que l'écran en affichera.
+         *
+         * @param zoom Display scale relative to level 0. / Échelle d'affichage par rapport au niveau 0.
+         * @return The index of the level to draw from. / L'indice du niveau à dessiner.
+         */
+        public int levelFor(double zoom) {
+            int sourceWidth = levels[0].getWidth();
+            int level = 0;
+            while (level + 1 < levels.length && (double) levels[level + 1].getWidth() / sourceWidth >= zoom) {
+                level++;
+            }
+            return level;
+        }
+
+        private static BufferedImage halve(BufferedImage image) {
+            int width = Math.max(1, image.getWidth() / 2);
+            int height = Math.max(1, image.getHeight() / 2);
+            int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+            BufferedImage half = new BufferedImage(width, height, type);
+            Graphics2D g2d = half.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(image, 0, 0, width, height, null);
+            g2d.dispose();
+            return half;
+        }
+    }
+
+    /**
+     * ZoomPreviewPanel --- Zoom and pan viewer for the puzzle image.
+     * Draws only the tiles of the best pyramid level that intersect the visible area.
+     * Mouse wheel zooms around the cursor, dragging pans, double-click fits the image again.
+     * <p>
+     * ZoomPreviewPanel --- Visionneuse avec zoom et déplacement pour l'image du puzzle.
+     * Ne dessine que les tuiles du meilleur niveau de la pyramide qui recoupent la zone visible.
+     * La molette zoome autour du curseur, le glisser déplace, le double-clic réajuste l'image.
+     */
+    private static class ZoomPreviewPanel extends JPanel {
+        private static final int TILE_SIZE = 256;
+        private static final double MAX_ZOOM = 8.0;
+        private static final double ZOOM_STEP = 1.2;
+
+        private final MipmapPyramid pyramid;
+        private final Runnable repaintWhenReady = this::repaint;
+        private final int imageWidth, imageHeight;
+        private double zoom = 1.0;
+        private double offsetX, offsetY;
+        private boolean fitToView = true;
+        private Point dragOrigin;
+
+        public ZoomPreviewPanel(MipmapPyramid pyramid) {
+            this.pyramid = pyramid;
+            this.imageWidth = pyramid.getLevel(0).getWidth();
+            this.imageHeight = pyramid.getLevel(0).getHeight();
+            setBackground(COLOR_BACKGROUND);
+
+            MouseAdapter mouseHandler = new MouseAdapter() {
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    dragOrigin = e.getPoint();
+                }
+
+                @Override
+                public void mouseDragged(MouseEvent e) {
+                    offsetX += e.getX() - dragOrigin.x;
+                    offsetY += e.getY() - dragOrigin.y;
+                    dragOrigin = e.getPoint();
+                    fitToView = false;
+                    clampOffsets();
+                    repaint();
+                }
+
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    if (e.getClickCount() == 2) {
+                        fitToView = true;
+                        repaint();
+                    }
+                }
+            };
+            addMouseListener(mouseHandler);
+            addMouseMotionListener(mouseHandler);
+            addMouseWheelListener(e -> zoomAt(e.getPoint(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation())));
+            addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    clampOffsets();
+                    repaint();
+                }
+            });
+        }
+
+        @Override
+        public void addNotify() {
+            super.addNotify();
+            // Sharper levels become available once the background build finishes.
+            // Des niveaux plus adaptés deviennent disponibles une fois la construction terminée.
+            pyramid.whenReady(repaintWhenReady);
+        }
+
+        @Override
+        public void removeNotify() {
+            // The closed dialog must not stay reachable from the pyramid. / La boîte fermée ne doit pas rester référencée par la pyramide.
+            pyramid.removeReadyListener(repaintWhenReady);
+            super.removeNotify();
+        }
+
+        private double fitZoom() {
+            if (getWidth() == 0 || getHeight() == 0) return 1.0;
+            return Math.min(1.0, Math.min((double) getWidth() / imageWidth, (double) getHeight() / imageHeight));
+        }
+
+        private void zoomAt(Point anchor, double factor) {
+            double newZoom = Math.max(fitZoom(), Math.min(MAX_ZOOM, zoom * factor));
+            // Keep the image point under the cursor in place. / Garder le point de l'image sous le curseur en place.
+            offsetX = anchor.x - (anchor.x - offsetX) * newZoom / zoom;
+            offsetY = anchor.y - (anchor.y - offsetY) * newZoom / zoom;
+            zoom = newZoom;
+            fitToView = false;
+            clampOffsets();
+            repaint();
+        }
+
+        private void clampOffsets() {
+            if (fitToView) zoom = fitZoom();
+            double scaledWidth = imageWidth * zoom;
+            double scaledHeight = imageHeight * zoom;
+            offsetX = scaledWidth <= getWidth()
+                    ? (getWidth() - scaledWidth) / 2
+                    : Math.min(0, Math.max(getWidth() - scaledWidth, offsetX));
+            offsetY = scaledHeight <= getHeight()
+                    ? (getHeight() - scaledHeight) / 2
+                    : Math.min(0, Math.max(getHeight() - scaledHeight, offsetY));
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (fitToView) clampOffsets();
+
+            BufferedImage level = pyramid.getLevel(pyramid.levelFor(zoom));
+            // Screen pixels per level pixel on each axis. / Pixels écran par pixel du niveau sur chaque axe.
+            double scaleX = zoom * imageWidth / level.getWidth();
+            double scaleY = zoom * imageHeight / level.getHeight();
+
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, zoom >= 2.0
+                    ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+                    : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+            int firstCol = Math.max(0, (int) Math.floor((clip.x - offsetX) / scaleX / TILE_SIZE));
+            int lastCol = Math.min((level.getWidth() - 1) / TILE_SIZE, (int) Math.floor((clip.x + clip.width - offsetX) / scaleX / TILE_SIZE));
+            int firstRow = Math.max(0, (int) Math.floor((clip.y - offsetY) / scaleY / TILE_SIZE));
+            int lastRow = Math.min((level.getHeight() - 1) / TILE_SIZE, (int) Math.floor((clip.y + clip.height - offsetY) / scaleY / TILE_SIZE));
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                int sy0 = row * TILE_SIZE;
+                int sy1 = Math.min(sy0 + TILE_SIZE, level.getHeight());
+                int dy0 = (int) Math.round(offsetY + sy0 * scaleY);
+                int dy1 = (int) Math.round(offsetY + sy1 * scaleY);
+                for (int col = firstCol; col <= lastCol; col++) {
+                    int sx0 = col * TILE_SIZE;
+                    int sx1 = Math.min(sx0 + TILE_SIZE, level.getWidth());
+                    int dx0 = (int) Math.round(offsetX + sx0 * scaleX);
+                    int dx1 = (int) Math.round(offsetX + sx1 * scaleX);
+                    g2d.drawImage(level, dx0, dy0, dx1, dy1, sx0, sy0, sx1, sy1, null);
+                }
+            }
+            g2d.dispose();
+        }
+    }
+
     /**
      * HighScorePanel --- Displays the list of top scores.
      * Reads scores from a file and displays them in a sorted list.